@@ -187,7 +187,8 @@ public class DBProject {
 				System.out.println("14. List the repairs made by maintenance company");
 				System.out.println("15. Get top k maintenance companies based on repair count");
 				System.out.println("16. Get number of repairs occurred per year for a given hotel room");
-				System.out.println("17. < EXIT");
+				System.out.println("17. Get occupancy report for all hotels in a hotel id range");
+				System.out.println("18. < EXIT");
 
             switch (readChoice()){
 				   case 1: addCustomer(esql); break;
@@ -206,7 +207,8 @@ public class DBProject {
 				   case 14: listRepairsMade(esql); break;
 				   case 15: topKMaintenanceCompany(esql); break;
 				   case 16: numberOfRepairsForEachRoomPerYear(esql); break;
-				   case 17: keepon = false; break;
+				   case 17: occupancyReportForHotels(esql); break;
+				   case 18: keepon = false; break;
 				   default : System.out.println("Unrecognized choice!"); break;
             }//end switch
          }//end while
@@ -526,6 +528,48 @@ public class DBProject {
 		}
    }
    
+	public static void occupancyReportForHotels(DBProject esql){
+		// Given a hotelID range and date range, get the count of rooms available and booked for every hotel
+		// Computed in one grouped pass instead of calling options 8 and 9 once per hotel
+		try {
+			// User inputs (leave hotel ids blank to include every hotel)
+			String startHotel = valuePrompt("Enter first hotel id (blank for all):");
+			String endHotel = valuePrompt("Enter last hotel id (blank for all):");
+			String startDate = valuePrompt("Enter beginning of date range:");
+			String endDate = valuePrompt("Enter end of date range:");
+			String query;
+			
+			
+			// Restrict both sides of the join to the requested hotels
+			String roomRange = "";
+			String bookingRange = "";
+			if(!startHotel.trim().isEmpty()) {
+				roomRange += String.format(" AND r.hotelid >= %s", startHotel.trim());
+				bookingRange += String.format(" AND k.hotelid >= %s", startHotel.trim());
+			}
+			if(!endHotel.trim().isEmpty()) {
+				roomRange += String.format(" AND r.hotelid <= %s", endHotel.trim());
+				bookingRange += String.format(" AND k.hotelid <= %s", endHotel.trim());
+			}
+			
+			
+			// A room is booked if it has at least one booking in the date range
+			query = String.format(
+				"SELECT r.hotelid, COUNT(*) - COUNT(b.roomno) AS available, COUNT(b.roomno) AS booked " +
+				"FROM room r LEFT JOIN (SELECT DISTINCT k.hotelid, k.roomno FROM booking k WHERE k.bookingdate >= '%s'::date AND k.bookingdate <= '%s'::date%s) b " +
+				"ON b.hotelid=r.hotelid AND b.roomno=r.roomno WHERE TRUE%s GROUP BY r.hotelid ORDER BY r.hotelid;",
+				startDate, endDate, bookingRange, roomRange);
+			int rows = esql.executeQuery(query);
+			if(rows == 0) {
+				System.out.println("\nNo rooms found for the given hotels.\n");
+			}
+			
+		} catch (Exception e) {
+			System.err.println (e.getMessage());
+			System.out.println("\nFailed to build the occupancy report.\n");
+		}
+	}
+   
 	public static void listHotelRoomBookingsForAWeek(DBProject esql){
 		// Given a hotelID, date - list all the rooms available for a week(including the input date) 
 		// KEVIN